@@ -0,0 +1,88 @@
+#!/usr/bin/env python3
+"""Compare a JMH JSON result file against a stored baseline.
+
+Usage: compare.py BASELINE CURRENT [--threshold PERCENT]
+
+Exits with status 1 when a benchmark is slower than the baseline by more than
+the threshold (default 10%) and the 99.9% confidence intervals JMH reports for
+both runs do not overlap. Throughput scores regress when they drop, time scores
+(avgt, sample, ss) regress when they grow.
+
+Both files must come from the same machine and JVM, and from runs with at least
+two measurement iterations so that JMH reports a score error.
+"""
+
+import argparse
+import json
+import math
+import sys
+
+HIGHER_IS_BETTER = {"thrpt"}
+
+
+def load(path):
+    with open(path) as f:
+        results = json.load(f)
+    scores = {}
+    for result in results:
+        params = result.get("params") or {}
+        key = result["benchmark"].rsplit(".", 2)[-2:]
+        name = ".".join(key)
+        if params:
+            name += " [" + ", ".join(f"{k}={v}" for k, v in sorted(params.items())) + "]"
+        metric = result["primaryMetric"]
+        error = metric.get("scoreError")
+        if not isinstance(error, (int, float)) or math.isnan(error):
+            sys.exit(f"{path}: {name} has no score error, run with more measurement iterations")
+        scores[name] = (result["mode"], metric["score"], error, metric["scoreUnit"])
+    return scores
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__.splitlines()[0])
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="allowed slowdown in percent (default: 10)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+
+    regressions = 0
+    width = max(len(name) for name in current) if current else 0
+    for name, (mode, score, error, unit) in sorted(current.items()):
+        current_score = f"{score:>14.3f} ± {error:<10.3f} {unit:<8}"
+        if name not in baseline:
+            print(f"  {name:<{width}}  {current_score}  (new)")
+            continue
+        base_mode, base_score, base_error, base_unit = baseline[name]
+        if base_mode != mode or base_unit != unit:
+            print(f"  {name:<{width}}  {current_score}  (mode/unit changed, not compared)")
+            continue
+        change = (score - base_score) / base_score * 100 if base_score else 0.0
+        slowdown = -change if mode in HIGHER_IS_BETTER else change
+        # Intervals that overlap cannot be told apart, however large the change in score
+        overlap = score - error <= base_score + base_error and base_score - base_error <= score + error
+        if slowdown > args.threshold and not overlap:
+            flag = "!"
+            regressions += 1
+        elif slowdown > args.threshold:
+            flag = "?"
+        else:
+            flag = " "
+        print(f"{flag} {name:<{width}}  {current_score}  {change:+7.1f}% vs {base_score:.3f} ± {base_error:.3f}")
+
+    for name in sorted(baseline.keys() - current.keys()):
+        print(f"  {name:<{width}}  (missing from current run)")
+
+    print("\n! regression, ? slower but within the score error (not counted)")
+    if regressions:
+        print(f"\n{regressions} benchmark(s) regressed by more than {args.threshold:g}%")
+        return 1
+    print(f"\nNo regressions beyond {args.threshold:g}%")
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,79 @@
+package com.example.benchmark;
+
+import com.example.microservice.exception.GlobalExceptionHandler;
+import com.example.microservice.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Not-found responses through the full Spring MVC dispatch with {@code GlobalExceptionHandler} as controller
+ * advice: a {@code ResourceNotFoundException} thrown by a service call and resolved by the advice, against
+ * the exception-free path of {@code UserController.findById} returning {@code GlobalExceptionHandler.notFound}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class ErrorPathBenchmark {
+
+    private MockMvc mockMvc;
+    private long id;
+
+    @Setup
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserLookupController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Benchmark
+    public Object throwAndHandle() throws Exception {
+        return mockMvc.perform(get("/users/{id}/throwing", ++id)).andReturn().getResponse();
+    }
+
+    @Benchmark
+    public Object notFoundWithoutException() throws Exception {
+        return mockMvc.perform(get("/users/{id}", ++id)).andReturn().getResponse();
+    }
+
+    /**
+     * Stands in for {@code UserController} and {@code UserService} without the persistence layer. The
+     * lookups are not inlined, like a call into a proxied service bean, so the JIT cannot elide the throw.
+     */
+    @RestController
+    public static class UserLookupController {
+
+        @GetMapping("/users/{id}")
+        public Object findById(@PathVariable long id) {
+            return findUser(id)
+                    .<Object>map(user -> user)
+                    .orElseGet(() -> GlobalExceptionHandler.notFound("User", "id", id));
+        }
+
+        @GetMapping("/users/{id}/throwing")
+        public Object findByIdThrowing(@PathVariable long id) {
+            return getUser(id);
+        }
+
+        @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+        Optional<Object> findUser(long id) {
+            return Optional.empty();
+        }
+
+        @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+        Object getUser(long id) {
+            throw new ResourceNotFoundException("User", "id", id);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.benchmark;
+
+import com.example.rabbitmq.event.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Jackson2JsonMessageConverter} round trips of {@code OrderCreatedEvent}, as configured in
+ * {@code RabbitMQConfig}. Deserialization uses the listener's inferred argument type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class OrderEventConversionBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private final Jackson2JsonMessageConverter converter =
+            new Jackson2JsonMessageConverter(ObjectMappers.springBootDefault());
+    private OrderCreatedEvent event;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        List<OrderCreatedEvent.OrderItem> orderItems = new ArrayList<>(items);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < items; i++) {
+            BigDecimal price = BigDecimal.valueOf(1999 + i, 2);
+            orderItems.add(new OrderCreatedEvent.OrderItem("product-" + i, "Product " + i, 1 + i % 3, price));
+            total = total.add(price);
+        }
+        event = new OrderCreatedEvent("order-1", "customer-1", orderItems, total,
+                "1 Main Street, Springfield", LocalDateTime.now());
+        message = toMessage();
+    }
+
+    @Benchmark
+    public Message toMessage() {
+        return converter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object fromMessage() {
+        message.getMessageProperties().setInferredArgumentType(OrderCreatedEvent.class);
+        return converter.fromMessage(message);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        Message sent = converter.toMessage(event, new MessageProperties());
+        sent.getMessageProperties().setInferredArgumentType(OrderCreatedEvent.class);
+        return converter.fromMessage(sent);
+    }
+}
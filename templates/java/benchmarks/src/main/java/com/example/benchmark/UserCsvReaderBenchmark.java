@@ -0,0 +1,75 @@
+package com.example.benchmark;
+
+import com.example.batch.model.User;
+import com.example.batch.reader.GzipResource;
+import com.example.batch.reader.UserCsvReaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads a whole CSV file through the reader used by {@code importUserJob}, plain and gzip-compressed.
+ * Scores are files per second; multiply by {@code rows} for rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class UserCsvReaderBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("users", gzip ? ".csv.gz" : ".csv");
+        try (OutputStream out = Files.newOutputStream(file);
+             Writer writer = new OutputStreamWriter(gzip ? new GZIPOutputStream(out) : out, StandardCharsets.UTF_8)) {
+            writer.write("firstName,lastName,email,phone\n");
+            for (int i = 0; i < rows; i++) {
+                writer.write("First" + i + ",Last" + i + ",user" + i + "@example.com,555-010-" + i + "\n");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int readAll() throws Exception {
+        Resource resource = new FileSystemResource(file);
+        FlatFileItemReader<User> reader = UserCsvReaders.reader(
+            GzipResource.decompressIfNeeded(resource, resource.getFilename()));
+        reader.open(new ExecutionContext());
+        try {
+            int count = 0;
+            while (reader.read() != null) {
+                count++;
+            }
+            return count;
+        } finally {
+            reader.close();
+        }
+    }
+}
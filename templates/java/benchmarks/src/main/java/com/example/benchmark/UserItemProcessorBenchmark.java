@@ -0,0 +1,42 @@
+package com.example.benchmark;
+
+import com.example.batch.model.User;
+import com.example.batch.processor.UserItemProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code UserItemProcessor.process} on a mix of valid and invalid records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class UserItemProcessorBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private final UserItemProcessor processor = new UserItemProcessor();
+    private User[] users;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        users = new User[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            // Every 10th record has an invalid email and is filtered out
+            String email = i % 10 == 0 ? "  invalid-email-" + i + " " : "  User." + i + "@Example.COM ";
+            users[i] = new User(" first" + i + " ", " last" + i + " ", email, "+1 (555) 010-" + (1000 + i), null, null);
+        }
+    }
+
+    @Benchmark
+    public User process() throws Exception {
+        User user = users[next];
+        next = (next + 1) & (INPUTS - 1);
+        return processor.process(user);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.benchmark;
+
+import com.example.microservice.dto.UserResponse;
+import com.example.microservice.mapper.UserMapper;
+import com.example.microservice.model.User;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code UserMapper.toResponse} and Jackson serialization of {@code UserResponse}, with Spring Boot's
+ * default {@code ObjectMapper} settings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class UserResponseBenchmark {
+
+    private final UserMapper mapper = Mappers.getMapper(UserMapper.class);
+    private final ObjectWriter writer = ObjectMappers.springBootDefault().writerFor(UserResponse.class);
+
+    private User user;
+    private UserResponse response;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        user = User.builder()
+                .id(42L)
+                .name("Jane Doe")
+                .email("jane.doe@example.com")
+                .password("secret-password")
+                .role(User.UserRole.USER)
+                .active(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        response = mapper.toResponse(user);
+    }
+
+    @Benchmark
+    public UserResponse toResponse() {
+        return mapper.toResponse(user);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] toResponseAndSerialize() throws Exception {
+        return writer.writeValueAsBytes(mapper.toResponse(user));
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.rabbitmq.config;
 
+import com.example.rabbitmq.sharding.OrderShardRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -9,6 +11,9 @@ import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 public class RabbitMQConfig {
 
@@ -16,26 +21,51 @@ public class RabbitMQConfig {
     public static final String ORDER_EXCHANGE = "order.exchange";
     public static final String ORDER_DLX = "order.dlx";
     
-    // Queue names
+    // Queue names, suffixed with the shard number (order.queue.0, order.queue.1, ...)
     public static final String ORDER_QUEUE = "order.queue";
     public static final String ORDER_DLQ = "order.dlq";
     public static final String ORDER_RETRY_QUEUE = "order.retry.queue";
     
-    // Routing keys
+    // Routing keys, suffixed with the shard number
     public static final String ORDER_ROUTING_KEY = "order.created";
+    public static final String ORDER_RETRY_ROUTING_KEY = "order.retry";
     public static final String ORDER_DLQ_ROUTING_KEY = "order.dlq";
 
-    // Message converter
+    public static String orderQueue(int shard) {
+        return ORDER_QUEUE + "." + shard;
+    }
+
+    public static String orderDLQ(int shard) {
+        return ORDER_DLQ + "." + shard;
+    }
+
+    public static String orderRetryQueue(int shard) {
+        return ORDER_RETRY_QUEUE + "." + shard;
+    }
+
+    public static String orderRoutingKey(int shard) {
+        return ORDER_ROUTING_KEY + "." + shard;
+    }
+
+    public static String orderRetryRoutingKey(int shard) {
+        return ORDER_RETRY_ROUTING_KEY + "." + shard;
+    }
+
+    public static String orderDLQRoutingKey(int shard) {
+        return ORDER_DLQ_ROUTING_KEY + "." + shard;
+    }
+
+    // Message converter (Spring Boot's ObjectMapper, which handles the events' java.time fields)
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
+        return new Jackson2JsonMessageConverter(objectMapper);
     }
 
     // RabbitTemplate with confirms
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter jsonMessageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(jsonMessageConverter());
+        template.setMessageConverter(jsonMessageConverter);
         template.setConfirmCallback((correlationData, ack, cause) -> {
             if (!ack) {
                 System.err.println("Message not confirmed: " + cause);
@@ -50,10 +80,10 @@ public class RabbitMQConfig {
     // Listener container factory with manual ack
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
-            ConnectionFactory connectionFactory) {
+            ConnectionFactory connectionFactory, MessageConverter jsonMessageConverter) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
-        factory.setMessageConverter(jsonMessageConverter());
+        factory.setMessageConverter(jsonMessageConverter);
         factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
         factory.setPrefetchCount(10);
         factory.setDefaultRequeueRejected(false);
@@ -72,43 +102,31 @@ public class RabbitMQConfig {
         return new DirectExchange(ORDER_DLX, true, false);
     }
 
-    // Main Queue with DLX configuration
-    @Bean
-    public Queue orderQueue() {
-        return QueueBuilder.durable(ORDER_QUEUE)
-                .withArgument("x-dead-letter-exchange", ORDER_DLX)
-                .withArgument("x-dead-letter-routing-key", ORDER_DLQ_ROUTING_KEY)
-                .build();
-    }
-
-    // Dead Letter Queue
-    @Bean
-    public Queue orderDLQ() {
-        return QueueBuilder.durable(ORDER_DLQ).build();
-    }
-
-    // Retry Queue with TTL
-    @Bean
-    public Queue orderRetryQueue() {
-        return QueueBuilder.durable(ORDER_RETRY_QUEUE)
-                .withArgument("x-message-ttl", 30000) // 30 seconds
-                .withArgument("x-dead-letter-exchange", ORDER_EXCHANGE)
-                .withArgument("x-dead-letter-routing-key", ORDER_ROUTING_KEY)
-                .build();
-    }
-
-    // Bindings
+    // Per shard: main queue -> (nack) -> DLQ, and retry queue -> (TTL) -> back to the main queue.
+    // Single active consumer keeps per-customer ordering when several nodes consume the same shard.
     @Bean
-    public Binding orderBinding() {
-        return BindingBuilder.bind(orderQueue())
-                .to(orderExchange())
-                .with(ORDER_ROUTING_KEY);
-    }
+    public Declarables orderShards(OrderShardRouter shardRouter) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            Queue queue = QueueBuilder.durable(orderQueue(shard))
+                    .singleActiveConsumer()
+                    .withArgument("x-dead-letter-exchange", ORDER_DLX)
+                    .withArgument("x-dead-letter-routing-key", orderDLQRoutingKey(shard))
+                    .build();
+            Queue deadLetterQueue = QueueBuilder.durable(orderDLQ(shard)).build();
+            Queue retryQueue = QueueBuilder.durable(orderRetryQueue(shard))
+                    .withArgument("x-message-ttl", 30000) // 30 seconds
+                    .withArgument("x-dead-letter-exchange", ORDER_EXCHANGE)
+                    .withArgument("x-dead-letter-routing-key", orderRoutingKey(shard))
+                    .build();
 
-    @Bean
-    public Binding orderDLQBinding() {
-        return BindingBuilder.bind(orderDLQ())
-                .to(orderDLX())
-                .with(ORDER_DLQ_ROUTING_KEY);
+            declarables.add(queue);
+            declarables.add(deadLetterQueue);
+            declarables.add(retryQueue);
+            declarables.add(BindingBuilder.bind(queue).to(orderExchange()).with(orderRoutingKey(shard)));
+            declarables.add(BindingBuilder.bind(retryQueue).to(orderExchange()).with(orderRetryRoutingKey(shard)));
+            declarables.add(BindingBuilder.bind(deadLetterQueue).to(orderDLX()).with(orderDLQRoutingKey(shard)));
+        }
+        return new Declarables(declarables);
     }
 }
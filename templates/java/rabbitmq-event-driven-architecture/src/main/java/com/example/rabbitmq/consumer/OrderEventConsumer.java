@@ -4,22 +4,28 @@ import com.example.rabbitmq.config.RabbitMQConfig;
 import com.example.rabbitmq.event.OrderCreatedEvent;
 import com.example.rabbitmq.service.IdempotencyService;
 import com.example.rabbitmq.service.OrderProcessingService;
+import com.example.rabbitmq.sharding.OrderShardRouter;
 import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.MethodRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderEventConsumer {
+public class OrderEventConsumer implements RabbitListenerConfigurer {
 
     private static final int MAX_RETRIES = 3;
     private static final String RETRY_COUNT_HEADER = "x-retry-count";
@@ -27,8 +33,41 @@ public class OrderEventConsumer {
     private final OrderProcessingService orderProcessingService;
     private final IdempotencyService idempotencyService;
     private final RabbitTemplate rabbitTemplate;
+    private final OrderShardRouter shardRouter;
+
+    // One listener container per claimed shard queue (and per shard DLQ), so every shard gets its own
+    // consumer thread and a slow shard does not hold back the others. A single container over all the
+    // queues would consume them on one thread.
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        DefaultMessageHandlerMethodFactory handlerMethodFactory = new DefaultMessageHandlerMethodFactory();
+        handlerMethodFactory.afterPropertiesSet();
+
+        Method orderHandler = ReflectionUtils.findMethod(
+                OrderEventConsumer.class, "handleOrderCreated", OrderCreatedEvent.class, Message.class, Channel.class);
+        Method deadLetterHandler = ReflectionUtils.findMethod(
+                OrderEventConsumer.class, "handleDeadLetter", OrderCreatedEvent.class, Message.class);
+
+        for (String queue : shardRouter.consumedQueues()) {
+            registrar.registerEndpoint(endpoint(queue, orderHandler, handlerMethodFactory));
+        }
+        for (String queue : shardRouter.consumedDeadLetterQueues()) {
+            registrar.registerEndpoint(endpoint(queue, deadLetterHandler, handlerMethodFactory));
+        }
+    }
+
+    // Uses the default rabbitListenerContainerFactory (manual ack, prefetch, JSON converter)
+    private MethodRabbitListenerEndpoint endpoint(
+            String queue, Method handler, DefaultMessageHandlerMethodFactory handlerMethodFactory) {
+        MethodRabbitListenerEndpoint endpoint = new MethodRabbitListenerEndpoint();
+        endpoint.setId(queue);
+        endpoint.setQueueNames(queue);
+        endpoint.setBean(this);
+        endpoint.setMethod(handler);
+        endpoint.setMessageHandlerMethodFactory(handlerMethodFactory);
+        return endpoint;
+    }
 
-    @RabbitListener(queues = RabbitMQConfig.ORDER_QUEUE)
     public void handleOrderCreated(
             OrderCreatedEvent event, 
             Message message, 
@@ -73,13 +112,13 @@ public class OrderEventConsumer {
         int retryCount = getRetryCount(message);
         
         if (retryCount < MAX_RETRIES) {
-            // Send to retry queue with incremented count
+            // Send to the shard's retry queue with incremented count
             log.info("Retrying order {} (attempt {}/{})", event.orderId(), retryCount + 1, MAX_RETRIES);
             
             message.getMessageProperties().setHeader(RETRY_COUNT_HEADER, retryCount + 1);
             rabbitTemplate.send(
                 RabbitMQConfig.ORDER_EXCHANGE, 
-                "order.retry", 
+                shardRouter.retryRoutingKeyFor(event.customerId()), 
                 message
             );
             channel.basicAck(deliveryTag, false);
@@ -110,7 +149,6 @@ public class OrderEventConsumer {
     }
 
     // DLQ Consumer for monitoring/alerting
-    @RabbitListener(queues = RabbitMQConfig.ORDER_DLQ)
     public void handleDeadLetter(OrderCreatedEvent event, Message message) {
         log.error("Dead letter received for order: {}", event.orderId());
         // Here you could:
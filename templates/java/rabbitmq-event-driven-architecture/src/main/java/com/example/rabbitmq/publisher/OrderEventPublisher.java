@@ -2,6 +2,7 @@ package com.example.rabbitmq.publisher;
 
 import com.example.rabbitmq.config.RabbitMQConfig;
 import com.example.rabbitmq.event.OrderCreatedEvent;
+import com.example.rabbitmq.sharding.OrderShardRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.MessagePostProcessor;
@@ -16,6 +17,7 @@ import java.util.UUID;
 public class OrderEventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
+    private final OrderShardRouter shardRouter;
 
     public void publishOrderCreated(OrderCreatedEvent event) {
         String messageId = UUID.randomUUID().toString();
@@ -31,7 +33,7 @@ public class OrderEventPublisher {
         
         rabbitTemplate.convertAndSend(
             RabbitMQConfig.ORDER_EXCHANGE,
-            RabbitMQConfig.ORDER_ROUTING_KEY,
+            shardRouter.routingKeyFor(event.customerId()),
             event,
             postProcessor
         );
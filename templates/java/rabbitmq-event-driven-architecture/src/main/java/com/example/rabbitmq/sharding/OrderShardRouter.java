@@ -0,0 +1,102 @@
+package com.example.rabbitmq.sharding;
+
+import com.example.rabbitmq.config.RabbitMQConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Maps customers to order queue shards with a jump consistent hash, so all orders of a customer land
+ * on the same shard (and are consumed in order), and growing the shard count only moves ~1/n of the
+ * customers.
+ * <p>
+ * Each consumer node claims the shards {@code s} with
+ * {@code s % order.shards.node-count == order.shards.node-index}, so shards are split evenly across nodes
+ * without per-node shard lists. Nodes sharing an index are hot standbys for each other through single
+ * active consumer. {@code order.shards.consume} overrides the claim.
+ */
+@Component
+public class OrderShardRouter {
+
+    private final int shardCount;
+    private final int[] consumedShards;
+
+    public OrderShardRouter(
+            @Value("${order.shards.count:4}") int shardCount,
+            @Value("${order.shards.node-index:0}") int nodeIndex,
+            @Value("${order.shards.node-count:1}") int nodeCount,
+            @Value("${order.shards.consume:}") int[] consumedShards) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("order.shards.count must be at least 1");
+        }
+        if (nodeCount < 1 || nodeIndex < 0 || nodeIndex >= nodeCount) {
+            throw new IllegalArgumentException("order.shards.node-index must be between 0 and order.shards.node-count - 1");
+        }
+        if (consumedShards.length == 0 && nodeIndex >= shardCount) {
+            throw new IllegalArgumentException("Node " + nodeIndex + " has no shard to claim, "
+                + "order.shards.node-count must not exceed order.shards.count (" + shardCount + ")");
+        }
+        this.shardCount = shardCount;
+        this.consumedShards = consumedShards.length > 0
+                ? consumedShards
+                : IntStream.range(0, shardCount).filter(shard -> shard % nodeCount == nodeIndex).toArray();
+        for (int shard : this.consumedShards) {
+            if (shard < 0 || shard >= shardCount) {
+                throw new IllegalArgumentException("order.shards.consume contains unknown shard " + shard);
+            }
+        }
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(String customerId) {
+        return jumpConsistentHash(mix(Objects.hashCode(customerId)), shardCount);
+    }
+
+    public String routingKeyFor(String customerId) {
+        return RabbitMQConfig.orderRoutingKey(shardFor(customerId));
+    }
+
+    public String retryRoutingKeyFor(String customerId) {
+        return RabbitMQConfig.orderRetryRoutingKey(shardFor(customerId));
+    }
+
+    /**
+     * Shard queues this node consumes: its claimed shards, or {@code order.shards.consume} when set.
+     */
+    public String[] consumedQueues() {
+        return Arrays.stream(consumedShards).mapToObj(RabbitMQConfig::orderQueue).toArray(String[]::new);
+    }
+
+    public String[] consumedDeadLetterQueues() {
+        return Arrays.stream(consumedShards).mapToObj(RabbitMQConfig::orderDLQ).toArray(String[]::new);
+    }
+
+    // Lamping & Veach, "A Fast, Minimal Memory, Consistent Hash Algorithm"
+    static int jumpConsistentHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    // Spreads String.hashCode over 64 bits (MurmurHash3 finalizer)
+    private static long mix(int hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.batch.config;
+
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncJobLauncherConfig {
+
+    // Bounded pool: at most poolSize jobs run at once, queueCapacity more wait, the rest are rejected
+    @Bean
+    public ThreadPoolTaskExecutor jobLauncherTaskExecutor(
+            @Value("${batch.launcher.pool-size:2}") int poolSize,
+            @Value("${batch.launcher.queue-capacity:4}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    // Returns as soon as the execution is created; the job runs on jobLauncherTaskExecutor
+    @Bean
+    public JobLauncher asyncJobLauncher(JobRepository jobRepository,
+                                        @Qualifier("jobLauncherTaskExecutor") ThreadPoolTaskExecutor executor) throws Exception {
+        return launcher(jobRepository, executor);
+    }
+
+    // Slot reserved for scheduled runs, so ad-hoc launches filling jobLauncherTaskExecutor cannot skip them
+    @Bean
+    public ThreadPoolTaskExecutor scheduledJobLauncherTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        // No queue: a scheduled run that is still busy when the next one fires makes the next one fail fast
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("batch-scheduled-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    @Bean
+    public JobLauncher scheduledJobLauncher(JobRepository jobRepository,
+                                            @Qualifier("scheduledJobLauncherTaskExecutor") ThreadPoolTaskExecutor executor) throws Exception {
+        return launcher(jobRepository, executor);
+    }
+
+    private static JobLauncher launcher(JobRepository jobRepository, ThreadPoolTaskExecutor executor) throws Exception {
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(executor);
+        jobLauncher.afterPropertiesSet();
+        return jobLauncher;
+    }
+}
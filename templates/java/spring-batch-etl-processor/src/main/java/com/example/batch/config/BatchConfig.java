@@ -1,11 +1,17 @@
 package com.example.batch.config;
 
 import com.example.batch.listener.JobCompletionNotificationListener;
+import com.example.batch.listener.StepThroughputListener;
 import com.example.batch.model.User;
 import com.example.batch.processor.UserItemProcessor;
+import com.example.batch.reader.GzipResource;
+import com.example.batch.reader.InputFilePartitioner;
+import com.example.batch.reader.InputProgressTracker;
+import com.example.batch.reader.UserCsvReaders;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
@@ -15,13 +21,13 @@ import org.springframework.batch.item.database.BeanPropertyItemSqlParameterSourc
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
-import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
@@ -34,22 +40,37 @@ public class BatchConfig {
     private final PlatformTransactionManager transactionManager;
     private final JobCompletionNotificationListener jobListener;
     private final UserItemProcessor userProcessor;
+    private final InputProgressTracker inputProgressTracker;
+    private final StepThroughputListener throughputListener;
+    private final ResourcePatternResolver resourcePatternResolver;
 
-    // Reader - CSV File
+    // Partitioner - one partition per file matched by inputFile (file, directory or glob)
+    @Bean
+    @JobScope
+    public InputFilePartitioner inputFilePartitioner(
+            @Value("#{jobParameters['inputFile'] ?: 'classpath:users.csv'}") String inputFile) {
+        return new InputFilePartitioner(resourcePatternResolver, inputFile);
+    }
+
+    // Workers processing input files in parallel
+    @Bean
+    public ThreadPoolTaskExecutor partitionTaskExecutor(
+            @Value("${batch.import.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("import-worker-");
+        return executor;
+    }
+
+    // Reader - CSV File, gzip decompressed on the fly
     @Bean
     @StepScope
     public FlatFileItemReader<User> reader(
-            @Value("#{jobParameters['inputFile']}") Resource inputFile) {
-        return new FlatFileItemReaderBuilder<User>()
-                .name("userItemReader")
-                .resource(inputFile != null ? inputFile : new ClassPathResource("users.csv"))
-                .delimited()
-                .names("firstName", "lastName", "email", "phone")
-                .fieldSetMapper(new BeanWrapperFieldSetMapper<>() {{
-                    setTargetType(User.class);
-                }})
-                .linesToSkip(1) // Skip header
-                .build();
+            @Value("#{stepExecutionContext['fileName']}") Resource inputFile) {
+        Resource resource = inputFile != null ? inputFile : new ClassPathResource("users.csv");
+        return UserCsvReaders.reader(
+            GzipResource.decompressIfNeeded(inputProgressTracker.track(resource), resource.getFilename()));
     }
 
     // Writer - Database
@@ -63,10 +84,23 @@ public class BatchConfig {
                 .build();
     }
 
-    // Step Configuration
+    // Step Configuration - partitioned over input files, completed files are skipped on restart
     @Bean
-    public Step importUserStep(FlatFileItemReader<User> reader, JdbcBatchItemWriter<User> writer) {
+    public Step importUserStep(Step importUserWorkerStep,
+                               InputFilePartitioner inputFilePartitioner,
+                               ThreadPoolTaskExecutor partitionTaskExecutor,
+                               @Value("${batch.import.workers:4}") int workers) {
         return new StepBuilder("importUserStep", jobRepository)
+                .partitioner(importUserWorkerStep.getName(), inputFilePartitioner)
+                .step(importUserWorkerStep)
+                .gridSize(workers)
+                .taskExecutor(partitionTaskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step importUserWorkerStep(FlatFileItemReader<User> reader, JdbcBatchItemWriter<User> writer) {
+        return new StepBuilder("importUserWorkerStep", jobRepository)
                 .<User, User>chunk(100, transactionManager)
                 .reader(reader)
                 .processor(userProcessor)
@@ -76,6 +110,8 @@ public class BatchConfig {
                 .skip(Exception.class)
                 .retryLimit(3)
                 .retry(Exception.class)
+                .stream(inputProgressTracker)
+                .listener(throughputListener)
                 .build();
     }
 
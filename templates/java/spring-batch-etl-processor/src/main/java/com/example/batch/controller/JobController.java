@@ -0,0 +1,142 @@
+package com.example.batch.controller;
+
+import com.example.batch.dto.JobProgress;
+import com.example.batch.service.JobProgressService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private static final String DEFAULT_INPUT = "classpath:users.csv";
+
+    private final JobLauncher asyncJobLauncher;
+    private final Job importUserJob;
+    private final JobProgressService jobProgressService;
+    private final JobExplorer jobExplorer;
+    private final Path inputDir;
+
+    public JobController(@Qualifier("asyncJobLauncher") JobLauncher asyncJobLauncher,
+                         Job importUserJob,
+                         JobProgressService jobProgressService,
+                         JobExplorer jobExplorer,
+                         @Value("${batch.import.input-dir:data/in}") String inputDir) {
+        this.asyncJobLauncher = asyncJobLauncher;
+        this.importUserJob = importUserJob;
+        this.jobProgressService = jobProgressService;
+        this.jobExplorer = jobExplorer;
+        this.inputDir = Paths.get(inputDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Launches importUserJob in the background and returns its execution id immediately.
+     * {@code inputFile} is a file, directory or glob relative to {@code batch.import.input-dir}.
+     */
+    @PostMapping("/import-users")
+    public ResponseEntity<JobProgress> importUsers(@RequestParam(required = false) String inputFile) throws Exception {
+        String location = inputFile != null ? resolveInput(inputFile) : DEFAULT_INPUT;
+        JobParameters params = new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis())
+                .addString("inputFile", location)
+                .toJobParameters();
+
+        JobExecution execution = launch(params);
+        log.info("Launched importUserJob execution {} for {}", execution.getId(), location);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(jobProgressService.toProgress(execution));
+    }
+
+    /**
+     * Restarts a failed or stopped execution with its original parameters. Input files whose partition
+     * completed in the previous run are skipped.
+     */
+    @PostMapping("/{executionId}/restart")
+    public ResponseEntity<JobProgress> restart(@PathVariable Long executionId) throws Exception {
+        JobExecution previous = jobExplorer.getJobExecution(executionId);
+        if (previous == null || !importUserJob.getName().equals(previous.getJobInstance().getJobName())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job execution not found: " + executionId);
+        }
+        if (previous.getStatus() != BatchStatus.FAILED && previous.getStatus() != BatchStatus.STOPPED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Only failed or stopped executions can be restarted, execution " + executionId + " is " + previous.getStatus());
+        }
+
+        JobExecution execution = launch(previous.getJobParameters());
+        log.info("Restarted importUserJob execution {} as {}", executionId, execution.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(jobProgressService.toProgress(execution));
+    }
+
+    @GetMapping("/{executionId}")
+    public JobProgress getExecution(@PathVariable Long executionId) {
+        return jobProgressService.findProgress(executionId)
+                .orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "Job execution not found: " + executionId));
+    }
+
+    @GetMapping
+    public List<JobProgress> listExecutions(@RequestParam(defaultValue = "20") int count) {
+        return jobProgressService.findRecent(importUserJob.getName(), count);
+    }
+
+    // Callers may only import from the input directory, never from other locations or URL schemes
+    private String resolveInput(String inputFile) {
+        Path relative;
+        try {
+            relative = Paths.get(inputFile);
+        } catch (InvalidPathException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid inputFile: " + e.getMessage());
+        }
+        boolean traversal = false;
+        for (Path part : relative) {
+            traversal |= "..".equals(part.toString());
+        }
+        if (inputFile.isBlank() || inputFile.contains(":") || inputFile.contains("\\")
+                || relative.isAbsolute() || traversal) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "inputFile must be a path relative to the input directory without '..'");
+        }
+        Path resolved = inputDir.resolve(relative).normalize();
+        if (!resolved.startsWith(inputDir)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "inputFile is outside the input directory");
+        }
+        return "file:" + resolved;
+    }
+
+    private JobExecution launch(JobParameters params) throws Exception {
+        JobExecution execution;
+        try {
+            execution = asyncJobLauncher.run(importUserJob, params);
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException | JobRestartException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+
+        // The launcher marks the execution FAILED without starting it when the bounded executor rejects it
+        if (execution.getStatus() == BatchStatus.FAILED && execution.getStartTime() == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many jobs running, try again later");
+        }
+        return execution;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.batch.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Live view of a job execution. {@code percentComplete} and {@code etaSeconds} are derived from the
+ * reader's byte offset in the input file and are null when the file size is unknown.
+ */
+public record JobProgress(
+    Long executionId,
+    String jobName,
+    String status,
+    String exitCode,
+    LocalDateTime startTime,
+    LocalDateTime endTime,
+    long readCount,
+    long writeCount,
+    long skipCount,
+    long filterCount,
+    double rowsPerSecond,
+    long bytesRead,
+    Long bytesTotal,
+    Double percentComplete,
+    Long etaSeconds
+) {}
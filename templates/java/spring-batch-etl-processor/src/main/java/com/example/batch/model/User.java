@@ -0,0 +1,20 @@
+package com.example.batch.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class User {
+
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String status;
+    private LocalDateTime createdAt;
+}
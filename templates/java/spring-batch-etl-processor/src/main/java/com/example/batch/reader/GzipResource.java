@@ -0,0 +1,44 @@
+package com.example.batch.reader;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompresses a gzip resource on the fly, so compressed shards never have to be expanded on disk.
+ */
+public class GzipResource extends AbstractResource {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Resource delegate;
+
+    public GzipResource(Resource delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps {@code resource} in a {@link GzipResource} if {@code filename} ends with {@code .gz}.
+     */
+    public static Resource decompressIfNeeded(Resource resource, String filename) {
+        return filename != null && filename.endsWith(".gz") ? new GzipResource(resource) : resource;
+    }
+
+    @Override
+    public boolean exists() {
+        return delegate.exists();
+    }
+
+    @Override
+    public String getDescription() {
+        return "gzip [" + delegate.getDescription() + "]";
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new GZIPInputStream(delegate.getInputStream(), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.batch.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One partition per input file. {@code input} may be a single file, a directory or a glob such as
+ * {@code file:/data/in/users-*.csv.gz}.
+ * <p>
+ * Partitions are named after the file's path relative to the part of {@code input} before the first
+ * wildcard, e.g. {@code file:2026-10-18/users.csv.gz} for {@code file:/data/in/*}{@code /users.csv.gz}.
+ * On restart Spring Batch matches them to the previous run and skips files whose partition already
+ * completed, even if new files have appeared since.
+ */
+@Slf4j
+public class InputFilePartitioner implements Partitioner {
+
+    public static final String FILE_NAME_KEY = "fileName";
+
+    private final ResourcePatternResolver resolver;
+    private final String input;
+
+    public InputFilePartitioner(ResourcePatternResolver resolver, String input) {
+        this.resolver = resolver;
+        this.input = input;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        String pattern = pattern();
+        String base = baseUrl(pattern);
+        Resource[] resources = resolve(pattern);
+        Map<String, ExecutionContext> partitions = new HashMap<>(resources.length * 2);
+        for (Resource resource : resources) {
+            ExecutionContext context = new ExecutionContext();
+            String url;
+            try {
+                url = resource.getURL().toExternalForm();
+                context.putString(FILE_NAME_KEY, url);
+                context.putLong(InputProgressTracker.BYTES_TOTAL_KEY, resource.contentLength());
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot read input file " + resource.getDescription(), ex);
+            }
+            String name = "file:" + (base != null && url.startsWith(base)
+                    ? url.substring(base.length()) : resource.getFilename());
+            if (partitions.put(name, context) != null) {
+                throw new IllegalStateException("Input " + input + " matches more than one file named " + name);
+            }
+        }
+        log.info("Partitioned {} into {} input files", input, partitions.size());
+        return partitions;
+    }
+
+    private String pattern() {
+        Resource single = resolver.getResource(input);
+        try {
+            if (!containsWildcard(input) && single.exists() && single.getFile().isDirectory()) {
+                return input.endsWith("/") ? input + "*" : input + "/*";
+            }
+        } catch (IOException ex) {
+            // Not a file system resource, so not a directory
+        }
+        return input;
+    }
+
+    /**
+     * URL of the directory holding the part of {@code pattern} before the first wildcard, ending in a slash.
+     */
+    private String baseUrl(String pattern) {
+        int wildcard = containsWildcard(pattern)
+                ? Math.min(indexOrLength(pattern, '*'), indexOrLength(pattern, '?')) : pattern.length();
+        int slash = pattern.lastIndexOf('/', wildcard);
+        int colon = pattern.indexOf(':');
+        String root = slash >= 0 ? pattern.substring(0, slash + 1) : pattern.substring(0, colon + 1);
+        try {
+            String url = resolver.getResource(root).getURL().toExternalForm();
+            return url.endsWith("/") ? url : url + "/";
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private Resource[] resolve(String pattern) {
+        try {
+            Resource[] resources = Arrays.stream(resolver.getResources(pattern))
+                    .filter(Resource::isReadable)
+                    .sorted(Comparator.comparing(InputFilePartitioner::urlOf))
+                    .toArray(Resource[]::new);
+            if (resources.length == 0) {
+                throw new IllegalStateException("No input files match " + input);
+            }
+            return resources;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot resolve input " + input, ex);
+        }
+    }
+
+    private static String urlOf(Resource resource) {
+        try {
+            return resource.getURL().toExternalForm();
+        } catch (IOException ex) {
+            return resource.getDescription();
+        }
+    }
+
+    private static int indexOrLength(String value, char ch) {
+        int index = value.indexOf(ch);
+        return index >= 0 ? index : value.length();
+    }
+
+    private static boolean containsWildcard(String location) {
+        return location.contains("*") || location.contains("?");
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.batch.reader;
+
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks how far the reader has got into its input file. The byte offset and file size are saved in
+ * the step's {@link ExecutionContext} at every chunk commit, so progress can be read from the job
+ * repository while the step runs.
+ */
+@Component
+@StepScope
+public class InputProgressTracker implements ItemStream {
+
+    public static final String BYTES_READ_KEY = "input.bytesRead";
+    public static final String BYTES_TOTAL_KEY = "input.bytesTotal";
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private volatile long bytesTotal = -1;
+
+    /**
+     * Wraps {@code resource} so every byte read through it is counted.
+     */
+    public Resource track(Resource resource) {
+        try {
+            bytesTotal = resource.contentLength();
+        } catch (IOException ex) {
+            bytesTotal = -1;
+        }
+        return new CountingResource(resource);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(BYTES_READ_KEY, bytesRead.get());
+        executionContext.putLong(BYTES_TOTAL_KEY, bytesTotal);
+    }
+
+    private class CountingResource extends AbstractResource {
+
+        private final Resource delegate;
+
+        CountingResource(Resource delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean exists() {
+            return delegate.exists();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            bytesRead.set(0);
+            return new FilterInputStream(delegate.getInputStream()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) {
+                        bytesRead.incrementAndGet();
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n > 0) {
+                        bytesRead.addAndGet(n);
+                    }
+                    return n;
+                }
+
+                @Override
+                public long skip(long n) throws IOException {
+                    long skipped = super.skip(n);
+                    bytesRead.addAndGet(skipped);
+                    return skipped;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.batch.reader;
+
+import com.example.batch.model.User;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.core.io.Resource;
+
+/**
+ * CSV layout of the user import files, shared by {@code importUserJob} and the benchmarks.
+ */
+public final class UserCsvReaders {
+
+    private UserCsvReaders() {
+    }
+
+    public static FlatFileItemReader<User> reader(Resource resource) {
+        return new FlatFileItemReaderBuilder<User>()
+                .name("userItemReader")
+                .resource(resource)
+                .delimited()
+                .names("firstName", "lastName", "email", "phone")
+                .fieldSetMapper(new BeanWrapperFieldSetMapper<>() {{
+                    setTargetType(User.class);
+                }})
+                .linesToSkip(1) // Skip header
+                .build();
+    }
+}
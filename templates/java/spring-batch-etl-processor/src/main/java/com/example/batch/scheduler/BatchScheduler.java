@@ -1,22 +1,30 @@
 package com.example.batch.scheduler;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class BatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job importUserJob;
 
+    // Async launcher with its own executor, so the scheduler thread is not blocked for the whole run
+    // and API launches cannot take the scheduled run's slot
+    public BatchScheduler(@Qualifier("scheduledJobLauncher") JobLauncher jobLauncher, Job importUserJob) {
+        this.jobLauncher = jobLauncher;
+        this.importUserJob = importUserJob;
+    }
+
     // Run every day at 2 AM
     @Scheduled(cron = "0 0 2 * * ?")
     public void runImportUserJob() {
@@ -27,8 +35,14 @@ public class BatchScheduler {
                     .toJobParameters();
                     
             log.info("Starting scheduled import user job");
-            jobLauncher.run(importUserJob, params);
-            log.info("Import user job completed");
+            JobExecution execution = jobLauncher.run(importUserJob, params);
+            // The launcher marks the execution FAILED without starting it when its executor rejects it
+            if (execution.getStatus() == BatchStatus.FAILED && execution.getStartTime() == null) {
+                log.error("Scheduled import user job was not started, execution {} rejected: previous scheduled run still busy",
+                        execution.getId());
+                return;
+            }
+            log.info("Import user job launched with execution id {}", execution.getId());
             
         } catch (Exception e) {
             log.error("Error running import user job", e);
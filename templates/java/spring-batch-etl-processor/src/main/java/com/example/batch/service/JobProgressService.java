@@ -0,0 +1,104 @@
+package com.example.batch.service;
+
+import com.example.batch.dto.JobProgress;
+import com.example.batch.reader.InputProgressTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class JobProgressService {
+
+    private final JobExplorer jobExplorer;
+
+    public Optional<JobProgress> findProgress(Long executionId) {
+        return Optional.ofNullable(jobExplorer.getJobExecution(executionId))
+                .map(this::toProgress);
+    }
+
+    public List<JobProgress> findRecent(String jobName, int count) {
+        return jobExplorer.getJobInstances(jobName, 0, count).stream()
+                .flatMap(instance -> jobExplorer.getJobExecutions(instance).stream())
+                .sorted(Comparator.comparing(JobExecution::getId).reversed())
+                .map(this::toProgress)
+                .toList();
+    }
+
+    public JobProgress toProgress(JobExecution execution) {
+        long read = 0;
+        long written = 0;
+        long skipped = 0;
+        long filtered = 0;
+        long bytesRead = 0;
+        long bytesTotal = 0;
+        boolean sizeKnown = false;
+
+        for (StepExecution step : execution.getStepExecutions()) {
+            ExecutionContext context = step.getExecutionContext();
+            // Only per-file worker steps carry input offsets; the manager step just aggregates their counts
+            if (!context.containsKey(InputProgressTracker.BYTES_TOTAL_KEY)) {
+                continue;
+            }
+            read += step.getReadCount();
+            written += step.getWriteCount();
+            skipped += step.getSkipCount();
+            filtered += step.getFilterCount();
+
+            bytesRead += context.getLong(InputProgressTracker.BYTES_READ_KEY, 0L);
+            long total = context.getLong(InputProgressTracker.BYTES_TOTAL_KEY);
+            if (total >= 0) {
+                bytesTotal += total;
+                sizeKnown = true;
+            }
+        }
+
+        double elapsedSeconds = elapsedSeconds(execution);
+        double rowsPerSecond = elapsedSeconds > 0 ? read / elapsedSeconds : 0;
+
+        Double percentComplete = null;
+        Long etaSeconds = null;
+        if (sizeKnown && bytesTotal > 0) {
+            percentComplete = Math.min(100.0, 100.0 * bytesRead / bytesTotal);
+            if (execution.isRunning() && bytesRead > 0) {
+                etaSeconds = (long) (elapsedSeconds * (bytesTotal - bytesRead) / bytesRead);
+            }
+        }
+
+        return new JobProgress(
+            execution.getId(),
+            execution.getJobInstance().getJobName(),
+            execution.getStatus().name(),
+            execution.getExitStatus().getExitCode(),
+            execution.getStartTime(),
+            execution.getEndTime(),
+            read,
+            written,
+            skipped,
+            filtered,
+            rowsPerSecond,
+            bytesRead,
+            sizeKnown ? bytesTotal : null,
+            percentComplete,
+            etaSeconds
+        );
+    }
+
+    private static double elapsedSeconds(JobExecution execution) {
+        LocalDateTime start = execution.getStartTime();
+        if (start == null) {
+            return 0;
+        }
+        LocalDateTime end = execution.getEndTime() != null ? execution.getEndTime() : LocalDateTime.now();
+        return Duration.between(start, end).toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of the standard image (before) and the
+# startup-optimized image (after) against a throwaway Postgres.
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+NETWORK="startup-bench"
+DB="startup-bench-db"
+PORT=18080
+
+cd "$(dirname "$0")/.."
+
+cleanup() {
+    docker rm -f startup-bench-app "$DB" >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+now_ms() {
+    date +%s%3N
+}
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DB" --network "$NETWORK" \
+    -e POSTGRES_DB=microservice_db -e POSTGRES_PASSWORD=postgres \
+    postgres:15-alpine >/dev/null
+until docker exec "$DB" pg_isready -U postgres >/dev/null 2>&1; do sleep 1; done
+
+docker build -q --target standard -t microservice-template:standard . >/dev/null
+docker build -q --target optimized -t microservice-template:optimized . >/dev/null
+
+# Time from `docker run` until GET /api/v1/users answers 200
+measure() {
+    local image="$1" profile="$2"
+    local start end
+    start=$(now_ms)
+    docker run -d --name startup-bench-app --network "$NETWORK" -p "$PORT:8080" \
+        -e SPRING_PROFILES_ACTIVE="$profile" \
+        -e SPRING_DATASOURCE_URL="jdbc:postgresql://$DB:5432/microservice_db" \
+        -e SPRING_JPA_HIBERNATE_DDL_AUTO=update \
+        "$image" >/dev/null
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/api/v1/users")" = "200" ]; do
+        sleep 0.05
+    done
+    end=$(now_ms)
+    docker rm -f startup-bench-app >/dev/null
+    echo $((end - start))
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+report() {
+    local label="$1" image="$2" profile="$3"
+    local samples=()
+    for _ in $(seq "$RUNS"); do
+        samples+=("$(measure "$image" "$profile")")
+    done
+    printf '%-10s median %6s ms   runs: %s\n' "$label" \
+        "$(printf '%s\n' "${samples[@]}" | median)" "${samples[*]}"
+}
+
+echo "Time to first request ($RUNS runs each)"
+report "before" microservice-template:standard default
+report "after" microservice-template:optimized prod
@@ -0,0 +1,49 @@
+package com.example.microservice.config;
+
+import com.example.microservice.metrics.SqlStatementCounter;
+import com.example.microservice.metrics.SqlStatementMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+@EnableConfigurationProperties(ObservabilityProperties.class)
+public class ObservabilityConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    // Boot applies the TaskDecorator bean to applicationTaskExecutor, which also runs MVC async work
+    @Bean
+    public TaskDecorator sqlStatementCountPropagation(SqlStatementCounter statementCounter) {
+        return statementCounter::propagate;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlInstrumentationCustomizer(SqlStatementCounter statementCounter,
+                                                                      ObservabilityProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+            hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, properties.slowQueryThresholdMs());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(
+            SqlStatementCounter statementCounter,
+            MeterRegistry meterRegistry,
+            ObservabilityProperties properties) {
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration = new FilterRegistrationBean<>(
+            new SqlStatementMetricsFilter(statementCounter, meterRegistry, properties.statementWarnThreshold())
+        );
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.microservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Thresholds for the request/query instrumentation.
+ *
+ * @param statementWarnThreshold number of SQL statements per request above which a possible N+1 is logged
+ * @param slowQueryThresholdMs   queries slower than this are written to the {@code org.hibernate.SQL_SLOW} log
+ */
+@ConfigurationProperties(prefix = "app.observability")
+public record ObservabilityProperties(
+    @DefaultValue("10") int statementWarnThreshold,
+    @DefaultValue("200") long slowQueryThresholdMs
+) {}
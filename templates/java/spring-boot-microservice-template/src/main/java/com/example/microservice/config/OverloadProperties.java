@@ -0,0 +1,32 @@
+package com.example.microservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limit for {@code /api/v1/users}.
+ *
+ * @param enabled          shed requests above the limit
+ * @param initialLimit     starting number of concurrent requests
+ * @param minLimit         the limit never drops below this
+ * @param maxLimit         the limit never grows above this
+ * @param latencyThreshold a request slower than this counts as a sign of overload and cuts the limit
+ * @param backoffRatio     multiplicative decrease applied to the limit on overload
+ * @param readShare        fraction of the limit reads may use; the rest is reserved for writes
+ * @param retryAfter       value of the {@code Retry-After} header on shed requests
+ * @param exportConcurrency concurrent streaming exports; they bypass the adaptive limit
+ */
+@ConfigurationProperties(prefix = "app.overload")
+public record OverloadProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("50") int initialLimit,
+    @DefaultValue("10") int minLimit,
+    @DefaultValue("200") int maxLimit,
+    @DefaultValue("500ms") Duration latencyThreshold,
+    @DefaultValue("0.9") double backoffRatio,
+    @DefaultValue("0.8") double readShare,
+    @DefaultValue("1s") Duration retryAfter,
+    @DefaultValue("2") int exportConcurrency
+) {}
@@ -0,0 +1,79 @@
+package com.example.microservice.config;
+
+import com.example.microservice.overload.AimdConcurrencyLimiter;
+import com.example.microservice.overload.LoadSheddingFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Load shedding for the user API. {@code app.overload.enabled} is checked when the filter is registered
+ * rather than with a bean condition, so it can still be switched at runtime on the AOT-processed image.
+ */
+@Configuration
+@EnableConfigurationProperties(OverloadProperties.class)
+public class OverloadProtectionConfig {
+
+    @Bean
+    public AimdConcurrencyLimiter userApiConcurrencyLimiter(OverloadProperties properties, MeterRegistry meterRegistry) {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(
+            properties.initialLimit(),
+            properties.minLimit(),
+            properties.maxLimit(),
+            properties.latencyThreshold().toNanos(),
+            properties.backoffRatio()
+        );
+        if (!properties.enabled()) {
+            return limiter;
+        }
+        Gauge.builder("http.server.concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                .description("Adaptive concurrency limit of the user API")
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in.flight", limiter, AimdConcurrencyLimiter::getInFlight)
+                .description("Requests currently in flight in the user API")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    // Runs right after the observation filter, so shed requests still show up in http.server.requests
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(AimdConcurrencyLimiter userApiConcurrencyLimiter,
+                                                                         ObjectMapper objectMapper,
+                                                                         OverloadProperties properties,
+                                                                         MeterRegistry meterRegistry) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(new LoadSheddingFilter(
+            userApiConcurrencyLimiter,
+            objectMapper,
+            properties.readShare(),
+            properties.retryAfter().toSeconds(),
+            Set.of("/api/v1/users/active"),
+            properties.exportConcurrency(),
+            shedCounters(meterRegistry)
+        ));
+        registration.addUrlPatterns("/api/v1/users", "/api/v1/users/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setEnabled(properties.enabled());
+        return registration;
+    }
+
+    private static Map<LoadSheddingFilter.Priority, Counter> shedCounters(MeterRegistry meterRegistry) {
+        Map<LoadSheddingFilter.Priority, Counter> counters = new EnumMap<>(LoadSheddingFilter.Priority.class);
+        for (LoadSheddingFilter.Priority priority : LoadSheddingFilter.Priority.values()) {
+            counters.put(priority, Counter.builder("http.server.requests.shed")
+                    .description("Requests rejected by the concurrency limit")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        return counters;
+    }
+}
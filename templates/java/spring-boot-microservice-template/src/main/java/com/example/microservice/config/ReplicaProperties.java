@@ -0,0 +1,33 @@
+package com.example.microservice.config;
+
+import com.example.microservice.datasource.ReplicaPool;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas for {@code @Transactional(readOnly = true)} work. Connection pool settings are
+ * inherited from {@code spring.datasource.hikari}.
+ *
+ * @param enabled             route read-only transactions to the replicas
+ * @param urls                JDBC URLs of the replicas
+ * @param username            replica user, defaults to {@code spring.datasource.username}
+ * @param password            replica password, defaults to {@code spring.datasource.password}
+ * @param loadBalancing       how a replica is picked for each read-only transaction
+ * @param readYourWritesWindow after a client writes, its read-only transactions go to the primary for this long
+ * @param healthCheckInterval how often replicas are probed; failing replicas are ejected until they recover
+ * @param connectionTimeout   how long a read waits for a replica connection before it falls back to the primary
+ */
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public record ReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<String> urls,
+    String username,
+    String password,
+    @DefaultValue("ROUND_ROBIN") ReplicaPool.LoadBalancing loadBalancing,
+    @DefaultValue("2s") Duration readYourWritesWindow,
+    @DefaultValue("5s") Duration healthCheckInterval,
+    @DefaultValue("250ms") Duration connectionTimeout
+) {}
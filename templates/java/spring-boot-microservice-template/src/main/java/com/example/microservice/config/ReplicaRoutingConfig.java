@@ -0,0 +1,84 @@
+package com.example.microservice.config;
+
+import com.example.microservice.datasource.ReadYourWritesFilter;
+import com.example.microservice.datasource.ReplicaPool;
+import com.example.microservice.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with one that routes read-only transactions to replicas.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(HikariDataSource primaryDataSource,
+                                   DataSourceProperties properties,
+                                   ReplicaProperties replicaProperties,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.urls().size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(replicaProperties.urls().get(i));
+            config.setUsername(replicaProperties.username() != null
+                    ? replicaProperties.username() : properties.determineUsername());
+            config.setPassword(replicaProperties.password() != null
+                    ? replicaProperties.password() : properties.determinePassword());
+            config.setPoolName("replica-" + i);
+            config.setReadOnly(true);
+            // Short wait: a saturated or unreachable replica falls back to the primary instead of stalling reads
+            config.setConnectionTimeout(replicaProperties.connectionTimeout().toMillis());
+            // An unreachable replica must not fail startup; it stays ejected until a health check succeeds
+            config.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(registry ->
+                    config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaPool(replicas, replicaProperties.loadBalancing(), replicaProperties.healthCheckInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaPool));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaProperties replicaProperties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+            new ReadYourWritesFilter(replicaProperties.readYourWritesWindow())
+        );
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
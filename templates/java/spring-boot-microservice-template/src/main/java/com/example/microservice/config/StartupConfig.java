@@ -0,0 +1,27 @@
+package com.example.microservice.config;
+
+import com.example.microservice.controller.UserController;
+import com.example.microservice.mapper.UserMapper;
+import com.example.microservice.repository.UserRepository;
+import com.example.microservice.service.UserService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * With {@code spring.main.lazy-initialization} enabled, infrastructure beans that are never used are not created
+ * at all. The request path is kept eager so the first request does not pay for its initialization.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter requestPathEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            UserController.class,
+            UserService.class,
+            UserRepository.class,
+            UserMapper.class
+        );
+    }
+}
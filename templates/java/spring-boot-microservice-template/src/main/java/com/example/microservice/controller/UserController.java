@@ -2,9 +2,16 @@ package com.example.microservice.controller;
 
 import com.example.microservice.dto.UserRequest;
 import com.example.microservice.dto.UserResponse;
+import com.example.microservice.exception.GlobalExceptionHandler;
 import com.example.microservice.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,8 +20,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -23,6 +35,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @Operation(summary = "List all users", description = "Returns a paginated list of users")
@@ -31,15 +44,43 @@ public class UserController {
         return ResponseEntity.ok(userService.findAll(pageable));
     }
 
+    @GetMapping(value = "/active", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Export active users", description = "Streams all active users as a JSON array")
+    @ApiResponse(responseCode = "200", description = "Successfully streamed users")
+    public ResponseEntity<StreamingResponseBody> streamActive() {
+        // Let the generator's buffer decide when to write instead of flushing after every user
+        ObjectWriter writer = objectMapper.writerFor(UserResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                userService.forEachActive(user -> {
+                    try {
+                        writer.writeValue(generator, user);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Returns a single user")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved user"),
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved user",
+            content = @Content(schema = @Schema(implementation = UserResponse.class))),
         @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<UserResponse> findById(
+    public Object findById(
             @Parameter(description = "User ID") @PathVariable Long id) {
-        return ResponseEntity.ok(userService.findById(id));
+        return userService.findById(id)
+                .<Object>map(user -> user)
+                .orElseGet(() -> GlobalExceptionHandler.notFound("User", "id", id));
     }
 
     @PostMapping
@@ -0,0 +1,67 @@
+package com.example.microservice.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-your-writes state of the request on the current thread, bound by {@link ReadYourWritesFilter}.
+ * <p>
+ * Reads go to the primary once the request has written, or when the client wrote recently in an
+ * earlier request. Without a bound request (scheduled jobs, async threads) reads are never pinned.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+
+    private final Runnable onWriteCommitted;
+    private boolean primaryRequired;
+    private boolean writeCommitted;
+
+    private ReadYourWrites(boolean primaryRequired, Runnable onWriteCommitted) {
+        this.primaryRequired = primaryRequired;
+        this.onWriteCommitted = onWriteCommitted;
+    }
+
+    static void bind(boolean primaryRequired, Runnable onWriteCommitted) {
+        CURRENT.set(new ReadYourWrites(primaryRequired, onWriteCommitted));
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    static boolean primaryRequired() {
+        ReadYourWrites current = CURRENT.get();
+        return current != null && current.primaryRequired;
+    }
+
+    /**
+     * Pins the rest of the request to the primary and notifies the filter once the write transaction commits.
+     */
+    static void recordWrite() {
+        ReadYourWrites current = CURRENT.get();
+        if (current == null) {
+            return;
+        }
+        current.primaryRequired = true;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            current.writeCommitted();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    current.writeCommitted();
+                }
+            }
+        });
+    }
+
+    private void writeCommitted() {
+        if (!writeCommitted) {
+            writeCommitted = true;
+            onWriteCommitted.run();
+        }
+    }
+}
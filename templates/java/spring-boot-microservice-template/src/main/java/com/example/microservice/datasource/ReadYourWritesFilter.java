@@ -0,0 +1,72 @@
+package com.example.microservice.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Scopes the read-your-writes window to the client that wrote. A committed write sets a short-lived
+ * cookie holding the end of the window; requests that send it back read from the primary until then.
+ * Clients that do not keep cookies only read their writes within the same request.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "rw_until";
+
+    private final long windowMillis;
+    private final int cookieMaxAgeSeconds;
+
+    public ReadYourWritesFilter(Duration readYourWritesWindow) {
+        this.windowMillis = readYourWritesWindow.toMillis();
+        this.cookieMaxAgeSeconds = (int) Math.max(1, (windowMillis + 999) / 1000);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ReadYourWrites.bind(recentlyWritten(request), () -> markWritten(response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.unbind();
+        }
+    }
+
+    private boolean recentlyWritten(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    // Capped to one window from now, so a forged value cannot pin a client for longer
+                    long until = Math.min(Long.parseLong(cookie.getValue()), now + windowMillis);
+                    return until > now;
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void markWritten(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(System.currentTimeMillis() + windowMillis));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge(cookieMaxAgeSeconds);
+        cookie.setAttribute("SameSite", "Lax");
+        response.addCookie(cookie);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.microservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of read replicas with load balancing and health-based ejection. A replica is ejected when it
+ * cannot be reached or a periodic health check fails, and rejoins after its next successful check.
+ * A replica whose connection pool is merely exhausted stays in.
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    public enum LoadBalancing {
+        ROUND_ROBIN, LEAST_LOADED
+    }
+
+    private final List<Replica> replicas;
+    private final LoadBalancing loadBalancing;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(List<HikariDataSource> dataSources, LoadBalancing loadBalancing, Duration healthCheckInterval) {
+        this.replicas = dataSources.stream().map(Replica::new).toList();
+        this.loadBalancing = loadBalancing;
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Picks a healthy replica, or returns empty when every replica is ejected.
+     */
+    public Optional<Replica> select() {
+        List<Replica> healthy = replicas.stream().filter(Replica::isHealthy).toList();
+        if (healthy.isEmpty()) {
+            return Optional.empty();
+        }
+        return switch (loadBalancing) {
+            case ROUND_ROBIN -> Optional.of(healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size())));
+            case LEAST_LOADED -> healthy.stream().min(Comparator.comparingInt(Replica::load));
+        };
+    }
+
+    public void eject(Replica replica, Exception cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Ejecting replica {}: {}", replica.name(), cause.getMessage());
+        }
+    }
+
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new IllegalStateException("connection validation failed");
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} is healthy", replica.name());
+                }
+            } catch (SQLException ex) {
+                if (isPoolExhausted(ex)) {
+                    log.debug("Skipping health check of busy replica {}", replica.name());
+                    continue;
+                }
+                log.debug("Health check failed for replica {}", replica.name(), ex);
+                eject(replica, ex);
+            } catch (Exception ex) {
+                log.debug("Health check failed for replica {}", replica.name(), ex);
+                eject(replica, ex);
+            }
+        }
+    }
+
+    /**
+     * Hikari reports a connection timeout as {@link SQLTransientConnectionException}, with the last
+     * connection failure as cause when the database could not be reached. Without a cause, every
+     * connection was simply in use.
+     */
+    static boolean isPoolExhausted(SQLException ex) {
+        return ex instanceof SQLTransientConnectionException && ex.getCause() == null;
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    public static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        public String name() {
+            return dataSource.getPoolName();
+        }
+
+        boolean isHealthy() {
+            return healthy;
+        }
+
+        int load() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.microservice.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * The transaction's read-only flag is only known once the transaction has started, so this data source
+ * must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ * Read-only transactions of a client that wrote recently also go to the primary, so that replication lag
+ * does not hide its own writes (see {@link ReadYourWrites}).
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaPool replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routeToReplica()) {
+            return primary.getConnection();
+        }
+        Optional<ReplicaPool.Replica> replica = replicas.select();
+        if (replica.isEmpty()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.get().dataSource().getConnection();
+        } catch (SQLException ex) {
+            if (ReplicaPool.isPoolExhausted(ex)) {
+                // The replica is busy, not broken: serve this read from the primary and keep the replica
+                log.debug("Replica {} has no free connection, reading from the primary", replica.get().name());
+            } else {
+                replicas.eject(replica.get(), ex);
+            }
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private boolean routeToReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWrites.recordWrite();
+            return false;
+        }
+        return !ReadYourWrites.primaryRequired();
+    }
+}
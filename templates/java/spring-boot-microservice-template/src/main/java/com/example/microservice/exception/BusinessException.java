@@ -1,12 +1,16 @@
 package com.example.microservice.exception;
 
+/**
+ * Expected business rule violation. Stack traces are not captured since these are reported to the
+ * client, not debugged from logs.
+ */
 public class BusinessException extends RuntimeException {
     
     public BusinessException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
     
     public BusinessException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -17,21 +17,37 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(ResourceNotFoundException.class)
-    public ProblemDetail handleResourceNotFound(ResourceNotFoundException ex) {
-        log.warn("Resource not found: {}", ex.getMessage());
-        
-        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
-            HttpStatus.NOT_FOUND, 
-            ex.getMessage()
-        );
-        problem.setTitle("Resource Not Found");
-        problem.setType(URI.create("https://api.example.com/errors/not-found"));
+    private static final URI NOT_FOUND_TYPE = URI.create("https://api.example.com/errors/not-found");
+    private static final URI VALIDATION_TYPE = URI.create("https://api.example.com/errors/validation");
+    private static final URI BUSINESS_TYPE = URI.create("https://api.example.com/errors/business");
+    private static final URI INTERNAL_TYPE = URI.create("https://api.example.com/errors/internal");
+    private static final URI OVERLOADED_TYPE = URI.create("https://api.example.com/errors/overloaded");
+
+    /**
+     * Not-found body for controllers that detect a missing resource without throwing. Returned as is,
+     * Spring MVC takes the response status from it.
+     */
+    public static ProblemDetail notFound(String resource, String field, Object value) {
+        return notFoundProblem(ResourceNotFoundException.message(resource, field, value));
+    }
+
+    /**
+     * Body for requests rejected before they reach a controller because the server is overloaded.
+     */
+    public static ProblemDetail serviceUnavailable(String detail) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, detail);
+        problem.setTitle("Service Unavailable");
+        problem.setType(OVERLOADED_TYPE);
         problem.setProperty("timestamp", Instant.now());
-        
         return problem;
     }
 
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ProblemDetail handleResourceNotFound(ResourceNotFoundException ex) {
+        log.debug("Resource not found: {}", ex.getMessage());
+        return notFoundProblem(ex.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProblemDetail handleValidationErrors(MethodArgumentNotValidException ex) {
         log.warn("Validation error: {}", ex.getMessage());
@@ -48,7 +64,7 @@ public class GlobalExceptionHandler {
             "Validation failed"
         );
         problem.setTitle("Validation Error");
-        problem.setType(URI.create("https://api.example.com/errors/validation"));
+        problem.setType(VALIDATION_TYPE);
         problem.setProperty("timestamp", Instant.now());
         problem.setProperty("errors", errors);
         
@@ -64,7 +80,7 @@ public class GlobalExceptionHandler {
             ex.getMessage()
         );
         problem.setTitle("Business Rule Violation");
-        problem.setType(URI.create("https://api.example.com/errors/business"));
+        problem.setType(BUSINESS_TYPE);
         problem.setProperty("timestamp", Instant.now());
         
         return problem;
@@ -79,9 +95,17 @@ public class GlobalExceptionHandler {
             "An unexpected error occurred"
         );
         problem.setTitle("Internal Server Error");
-        problem.setType(URI.create("https://api.example.com/errors/internal"));
+        problem.setType(INTERNAL_TYPE);
         problem.setProperty("timestamp", Instant.now());
         
         return problem;
     }
+
+    private static ProblemDetail notFoundProblem(String detail) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, detail);
+        problem.setTitle("Resource Not Found");
+        problem.setType(NOT_FOUND_TYPE);
+        problem.setProperty("timestamp", Instant.now());
+        return problem;
+    }
 }
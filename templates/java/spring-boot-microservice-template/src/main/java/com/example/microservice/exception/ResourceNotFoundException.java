@@ -1,12 +1,39 @@
 package com.example.microservice.exception;
 
+/**
+ * Stackless; the message is only built when it is read.
+ */
 public class ResourceNotFoundException extends RuntimeException {
+
+    private final String resource;
+    private final String field;
+    private final Object value;
+    private String message;
     
     public ResourceNotFoundException(String resource, String field, Object value) {
-        super(String.format("%s not found with %s: '%s'", resource, field, value));
+        super(null, null, false, false);
+        this.resource = resource;
+        this.field = field;
+        this.value = value;
     }
     
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.resource = null;
+        this.field = null;
+        this.value = null;
+        this.message = message;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = message(resource, field, value);
+        }
+        return message;
+    }
+
+    static String message(String resource, String field, Object value) {
+        return resource + " not found with " + field + ": '" + value + "'";
     }
 }
@@ -0,0 +1,48 @@
+package com.example.microservice.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback filter that lets through at most {@code maxEventsPerSecond} events per one-second window
+ * and drops the rest. When the first event of the next window arrives, the number of dropped events is
+ * logged as a WARN by this class's logger, which must not go through an appender using this filter.
+ */
+public class RateLimitingLogFilter extends Filter<ILoggingEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitingLogFilter.class);
+
+    private int maxEventsPerSecond = 20;
+
+    private final AtomicLong windowStart = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        long now = System.currentTimeMillis();
+        long start = windowStart.get();
+        if (now - start >= 1000 && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+            int droppedInWindow = dropped.getAndSet(0);
+            if (droppedInWindow > 0) {
+                log.warn("Dropped {} events from {} in the last rate limit window", droppedInWindow, event.getLoggerName());
+            }
+        }
+        if (windowCount.incrementAndGet() <= maxEventsPerSecond) {
+            return FilterReply.NEUTRAL;
+        }
+        dropped.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+}
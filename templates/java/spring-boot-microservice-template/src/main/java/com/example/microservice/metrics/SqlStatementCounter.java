@@ -0,0 +1,61 @@
+package com.example.microservice.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * The counter is only active between {@link #start()} and {@link #stop()}, and in tasks wrapped with
+ * {@link #propagate(Runnable)} while it was active.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = COUNT.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting on the current thread and returns the running total.
+     */
+    public AtomicInteger start() {
+        AtomicInteger count = new AtomicInteger();
+        COUNT.set(count);
+        return count;
+    }
+
+    public void stop() {
+        COUNT.remove();
+    }
+
+    /**
+     * Makes {@code task} count into the total of the calling thread, e.g. for streaming response bodies
+     * that run on an async executor thread.
+     */
+    public Runnable propagate(Runnable task) {
+        AtomicInteger count = COUNT.get();
+        if (count == null) {
+            return task;
+        }
+        return () -> {
+            AtomicInteger previous = COUNT.get();
+            COUNT.set(count);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    COUNT.set(previous);
+                } else {
+                    COUNT.remove();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.microservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the number of SQL statements executed per request as
+ * {@code http.server.requests.sql.statements} and warns about likely N+1 patterns. For async requests
+ * such as streaming responses the count is recorded on completion and includes the statements of the
+ * async thread.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final SqlStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AtomicInteger statements = statementCounter.start();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                String method = request.getMethod();
+                String uri = uriTemplate(request);
+                request.getAsyncContext().addListener(new RecordOnComplete(method, uri, statements));
+                async = true;
+            }
+        } finally {
+            statementCounter.stop();
+            if (!async) {
+                record(request.getMethod(), uriTemplate(request), statements.get());
+            }
+        }
+    }
+
+    private void record(String method, String uri, int statements) {
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > warnThreshold) {
+            log.warn("Possible N+1: {} {} executed {} SQL statements", method, uri, statements);
+        }
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private class RecordOnComplete implements AsyncListener {
+
+        private final String method;
+        private final String uri;
+        private final AtomicInteger statements;
+
+        RecordOnComplete(String method, String uri, AtomicInteger statements) {
+            this.method = method;
+            this.uri = uri;
+            this.statements = statements;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(method, uri, statements.get());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.microservice.overload;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit adjusted by additive increase / multiplicative decrease: every request that completes
+ * within the latency threshold while the limit was actually in use raises it by one, every slower request
+ * multiplies it by the backoff ratio.
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                  long latencyThresholdNanos, double backoffRatio) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * Takes a slot if fewer than {@code share} of the limit are in use.
+     *
+     * @return the number of requests in flight before this one, or -1 if the request must be shed
+     */
+    public int tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Frees the slot and feeds the request's latency back into the limit.
+     */
+    public void release(int inFlightAtStart, long latencyNanos) {
+        inFlight.decrementAndGet();
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (inFlightAtStart * 2 >= limit) {
+            increase();
+        }
+    }
+
+    /**
+     * Frees the slot without adjusting the limit, for requests whose latency says nothing about load.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1);
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
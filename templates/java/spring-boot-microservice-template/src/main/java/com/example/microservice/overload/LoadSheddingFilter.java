@@ -0,0 +1,173 @@
+package com.example.microservice.overload;
+
+import com.example.microservice.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Rejects requests with 503 and {@code Retry-After} as soon as the adaptive concurrency limit is reached,
+ * instead of letting them queue in Tomcat and Hikari until they time out. Reads may only use part of the
+ * limit, so under pressure they are shed before writes.
+ * <p>
+ * Exports stream for minutes and their latency says nothing about load, so they bypass the adaptive
+ * limit and share a small fixed number of slots instead.
+ */
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    public enum Priority {
+        READ, WRITE, EXPORT
+    }
+
+    private final AimdConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final double readShare;
+    private final String retryAfterSeconds;
+    private final Set<String> exportPaths;
+    private final int exportConcurrency;
+    private final Semaphore exportSlots;
+    private final Map<Priority, Counter> shedCounters;
+
+    public LoadSheddingFilter(AimdConcurrencyLimiter limiter, ObjectMapper objectMapper, double readShare,
+                              long retryAfterSeconds, Set<String> exportPaths, int exportConcurrency,
+                              Map<Priority, Counter> shedCounters) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.readShare = readShare;
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+        this.exportPaths = exportPaths;
+        this.exportConcurrency = exportConcurrency;
+        this.exportSlots = new Semaphore(exportConcurrency);
+        this.shedCounters = shedCounters;
+    }
+
+    public static Priority priorityOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)
+                ? Priority.READ : Priority.WRITE;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isExport(request)) {
+            exportThroughBulkhead(request, response, filterChain);
+            return;
+        }
+
+        Priority priority = priorityOf(request);
+        int inFlightAtStart = limiter.tryAcquire(priority == Priority.READ ? readShare : 1.0);
+        if (inFlightAtStart < 0) {
+            shedCounters.get(priority).increment();
+            reject(request, response, limiter.getLimit());
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Long-running streaming responses hold their slot until done but say nothing about load
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter::release));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                limiter.release(inFlightAtStart, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private boolean isExport(HttpServletRequest request) {
+        return exportPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    private void exportThroughBulkhead(HttpServletRequest request, HttpServletResponse response,
+                                       FilterChain filterChain) throws ServletException, IOException {
+        if (!exportSlots.tryAcquire()) {
+            shedCounters.get(Priority.EXPORT).increment();
+            reject(request, response, exportConcurrency);
+            return;
+        }
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(exportSlots::release));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                exportSlots.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, int limit) throws IOException {
+        log.debug("Shedding {} {}: concurrency limit {} reached", request.getMethod(), request.getRequestURI(), limit);
+        ProblemDetail problem = GlobalExceptionHandler.serviceUnavailable(
+                "Server is overloaded, retry after " + retryAfterSeconds + "s");
+        problem.setInstance(URI.create(request.getRequestURI()));
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    private static class ReleaseOnComplete implements AsyncListener {
+
+        private final Runnable releaseSlot;
+        private boolean released;
+
+        private ReleaseOnComplete(Runnable releaseSlot) {
+            this.releaseSlot = releaseSlot;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private synchronized void release() {
+            if (!released) {
+                released = true;
+                releaseSlot.run();
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.example.microservice.exception.ResourceNotFoundException;
 import com.example.microservice.mapper.UserMapper;
 import com.example.microservice.model.User;
 import com.example.microservice.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -13,6 +14,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,6 +25,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final EntityManager entityManager;
 
     @Transactional(readOnly = true)
     public Page<UserResponse> findAll(Pageable pageable) {
@@ -28,12 +34,29 @@ public class UserService {
                 .map(userMapper::toResponse);
     }
 
+    /**
+     * Returns empty for unknown ids instead of throwing, so the not-found path stays cheap.
+     */
     @Transactional(readOnly = true)
-    public UserResponse findById(Long id) {
+    public Optional<UserResponse> findById(Long id) {
         log.debug("Finding user by id: {}", id);
         return userRepository.findById(id)
-                .map(userMapper::toResponse)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+                .map(userMapper::toResponse);
+    }
+
+    /**
+     * Hands every active user to {@code consumer} one at a time. Entities are detached once mapped,
+     * so memory use does not grow with the number of rows.
+     */
+    @Transactional(readOnly = true)
+    public void forEachActive(Consumer<UserResponse> consumer) {
+        log.debug("Streaming all active users");
+        try (Stream<User> users = userRepository.streamAllActive()) {
+            users.forEach(user -> {
+                consumer.accept(userMapper.toResponse(user));
+                entityManager.detach(user);
+            });
+        }
     }
 
     @Transactional
@@ -0,0 +1,108 @@
+package com.example.microservice.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streams a multi-million row table through {@code GET /api/v1/users/active} against Postgres, where the
+ * export relies on a server-side cursor, and checks that the live heap stays flat while it runs.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "app.overload.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class UserStreamingMemoryTest {
+
+    private static final int ROWS = 2_000_000;
+
+    // Holding every exported user in memory at once takes several hundred MB
+    private static final long MAX_LIVE_HEAP_GROWTH = 64L * 1024 * 1024;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void streamsAllActiveUsersWithBoundedHeap() throws Exception {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, email, password, role, active, created_at, updated_at)
+            SELECT 'User ' || i, 'user' || i || '@example.com', 'secret', 'USER', true, now(), now()
+            FROM generate_series(1, ?) AS i
+            """, ROWS);
+
+        long baseline = liveHeap();
+        AtomicLong peak = new AtomicLong(baseline);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleWithFixedDelay(() -> peak.accumulateAndGet(liveHeap(), Math::max), 0, 500, TimeUnit.MILLISECONDS);
+
+        long users = 0;
+        try {
+            HttpResponse<InputStream> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/users/active")).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+            assertThat(response.statusCode()).isEqualTo(200);
+
+            try (JsonParser parser = objectMapper.getFactory().createParser(response.body())) {
+                assertThat(parser.nextToken()).isEqualTo(JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    users++;
+                }
+            }
+        } finally {
+            sampler.shutdownNow();
+            sampler.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(users).isEqualTo(ROWS);
+        assertThat(peak.get() - baseline)
+                .as("live heap growth while streaming %d users", ROWS)
+                .isLessThan(MAX_LIVE_HEAP_GROWTH);
+    }
+
+    // Heap still in use after a full collection, i.e. what the export actually retains
+    private static long liveHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
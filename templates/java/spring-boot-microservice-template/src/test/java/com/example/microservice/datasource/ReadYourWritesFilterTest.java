@@ -0,0 +1,99 @@
+package com.example.microservice.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(1500);
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void clientWithoutCookieReadsFromReplica() throws Exception {
+        assertThat(primaryRequiredDuringRequest()).isFalse();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+
+    @Test
+    void clientInsideItsWindowReadsFromPrimary() throws Exception {
+        request.setCookies(windowEndingIn(1000));
+
+        assertThat(primaryRequiredDuringRequest()).isTrue();
+    }
+
+    @Test
+    void clientAfterItsWindowReadsFromReplica() throws Exception {
+        request.setCookies(windowEndingIn(-1));
+
+        assertThat(primaryRequiredDuringRequest()).isFalse();
+    }
+
+    @Test
+    void malformedCookieIsIgnored() throws Exception {
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "forever"));
+
+        assertThat(primaryRequiredDuringRequest()).isFalse();
+    }
+
+    @Test
+    void committedWriteOpensWindowForTheClient() throws Exception {
+        long before = System.currentTimeMillis();
+        AtomicBoolean primaryRequiredAfterWrite = new AtomicBoolean();
+
+        filter.doFilter(request, response, (req, res) -> {
+            ReadYourWrites.recordWrite();
+            primaryRequiredAfterWrite.set(ReadYourWrites.primaryRequired());
+        });
+
+        assertThat(primaryRequiredAfterWrite).isTrue();
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(Long.parseLong(cookie.getValue()))
+                .isBetween(before + WINDOW.toMillis(), System.currentTimeMillis() + WINDOW.toMillis());
+        assertThat(cookie.getMaxAge()).isEqualTo(2);
+        assertThat(cookie.getPath()).isEqualTo("/");
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(cookie.getAttribute("SameSite")).isEqualTo("Lax");
+    }
+
+    @Test
+    void writeAfterResponseIsCommittedSetsNoCookie() throws Exception {
+        filter.doFilter(request, response, (req, res) -> {
+            res.flushBuffer();
+            ReadYourWrites.recordWrite();
+        });
+
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+
+    @Test
+    void stateIsUnboundAfterTheRequest() throws Exception {
+        request.setCookies(windowEndingIn(1000));
+
+        filter.doFilter(request, response, (req, res) -> { });
+
+        assertThat(ReadYourWrites.primaryRequired()).isFalse();
+    }
+
+    private boolean primaryRequiredDuringRequest() throws Exception {
+        AtomicBoolean primaryRequired = new AtomicBoolean();
+        FilterChain chain = (req, res) -> primaryRequired.set(ReadYourWrites.primaryRequired());
+        filter.doFilter(request, response, chain);
+        return primaryRequired.get();
+    }
+
+    private static Cookie windowEndingIn(long millis) {
+        return new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(System.currentTimeMillis() + millis));
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.microservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.net.ConnectException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final HikariDataSource replicaDataSource = mock(HikariDataSource.class);
+    private final ReplicaPool.Replica replica = mock(ReplicaPool.Replica.class);
+    private final ReplicaPool replicas = mock(ReplicaPool.class);
+
+    private final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replicas);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        when(replica.dataSource()).thenReturn(replicaDataSource);
+        when(replicas.select()).thenReturn(Optional.of(replica));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        ReadYourWrites.unbind();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() throws SQLException {
+        beginTransaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void readWriteTransactionGoesToPrimary() throws SQLException {
+        beginTransaction(false);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replicas, never()).select();
+    }
+
+    @Test
+    void workOutsideTransactionGoesToPrimary() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replicas, never()).select();
+    }
+
+    @Test
+    void readAfterWriteInSameRequestGoesToPrimary() throws SQLException {
+        ReadYourWrites.bind(false, () -> { });
+        beginTransaction(false);
+        dataSource.getConnection();
+
+        TransactionSynchronizationManager.clear();
+        beginTransaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readOfClientThatWroteRecentlyGoesToPrimary() throws SQLException {
+        ReadYourWrites.bind(true, () -> { });
+        beginTransaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readFallsBackToPrimaryWhenNoReplicaIsHealthy() throws SQLException {
+        when(replicas.select()).thenReturn(Optional.empty());
+        beginTransaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void exhaustedReplicaPoolFallsBackToPrimaryWithoutEjecting() throws SQLException {
+        when(replicaDataSource.getConnection()).thenThrow(
+                new SQLTransientConnectionException("replica-0 - Connection is not available, request timed out after 250ms."));
+        beginTransaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replicas, never()).eject(any(), any());
+    }
+
+    @Test
+    void unreachableReplicaIsEjected() throws SQLException {
+        SQLTransientConnectionException timeout = new SQLTransientConnectionException(
+                "replica-0 - Connection is not available, request timed out after 250ms.",
+                "08001", new ConnectException("Connection refused"));
+        when(replicaDataSource.getConnection()).thenThrow(timeout);
+        beginTransaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replicas).eject(replica, timeout);
+    }
+
+    @Test
+    void replicaFailingToConnectIsEjected() throws SQLException {
+        SQLException failure = new SQLException("FATAL: the database system is shutting down", "57P03");
+        when(replicaDataSource.getConnection()).thenThrow(failure);
+        beginTransaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replicas).eject(replica, failure);
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
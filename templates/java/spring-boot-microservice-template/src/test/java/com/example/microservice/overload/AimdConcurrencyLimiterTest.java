@@ -0,0 +1,90 @@
+package com.example.microservice.overload;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void fastRequestRaisesLimitOnlyWhileLimitIsInUse() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 100, THRESHOLD, 0.9);
+
+        limiter.release(acquire(limiter, 4), FAST);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        limiter.release(acquire(limiter, 5), FAST);
+        assertThat(limiter.getLimit()).isEqualTo(11);
+    }
+
+    @Test
+    void slowRequestCutsLimitByBackoffRatio() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(50, 1, 100, THRESHOLD, 0.9);
+
+        limiter.release(acquire(limiter, 0), SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(45);
+
+        limiter.release(acquire(limiter, 0), SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        AimdConcurrencyLimiter atMin = new AimdConcurrencyLimiter(10, 10, 100, THRESHOLD, 0.5);
+        atMin.release(acquire(atMin, 0), SLOW);
+        assertThat(atMin.getLimit()).isEqualTo(10);
+
+        AimdConcurrencyLimiter atMax = new AimdConcurrencyLimiter(20, 1, 20, THRESHOLD, 0.9);
+        atMax.release(acquire(atMax, 19), FAST);
+        assertThat(atMax.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void readsOnlyUseTheirShareOfTheLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 100, THRESHOLD, 0.9);
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(limiter.tryAcquire(0.8)).isEqualTo(i);
+        }
+        assertThat(limiter.tryAcquire(0.8)).isNegative();
+        assertThat(limiter.tryAcquire(1.0)).isEqualTo(8);
+        assertThat(limiter.tryAcquire(1.0)).isEqualTo(9);
+        assertThat(limiter.tryAcquire(1.0)).isNegative();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void shareAlwaysAllowsOneRequest() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 100, THRESHOLD, 0.9);
+
+        assertThat(limiter.tryAcquire(0.5)).isZero();
+        assertThat(limiter.tryAcquire(0.5)).isNegative();
+    }
+
+    @Test
+    void releaseWithoutLatencyKeepsLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 100, THRESHOLD, 0.9);
+        acquire(limiter, 1);
+
+        limiter.release();
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    /**
+     * Fills the limiter up to {@code alreadyInFlight} requests and takes one more slot.
+     */
+    private static int acquire(AimdConcurrencyLimiter limiter, int alreadyInFlight) {
+        while (limiter.getInFlight() < alreadyInFlight) {
+            limiter.tryAcquire(1.0);
+        }
+        return limiter.tryAcquire(1.0);
+    }
+}
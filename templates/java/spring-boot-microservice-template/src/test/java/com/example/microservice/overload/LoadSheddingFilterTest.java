@@ -0,0 +1,133 @@
+package com.example.microservice.overload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private static final String EXPORT_PATH = "/api/v1/users/active";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<LoadSheddingFilter.Priority, Counter> shedCounters = new EnumMap<>(LoadSheddingFilter.Priority.class);
+    private final AimdConcurrencyLimiter limiter =
+            new AimdConcurrencyLimiter(10, 1, 100, TimeUnit.MILLISECONDS.toNanos(500), 0.9);
+    private final LoadSheddingFilter filter;
+
+    private final AtomicInteger passedThrough = new AtomicInteger();
+    private final FilterChain chain = (req, res) -> passedThrough.incrementAndGet();
+
+    LoadSheddingFilterTest() {
+        for (LoadSheddingFilter.Priority priority : LoadSheddingFilter.Priority.values()) {
+            shedCounters.put(priority, meterRegistry.counter("shed", "priority", priority.name()));
+        }
+        filter = new LoadSheddingFilter(limiter, objectMapper, 0.8, 1, Set.of(EXPORT_PATH), 1, shedCounters);
+    }
+
+    @Test
+    void requestAboveLimitIsRejectedWithRetryAfterAndProblemDetail() throws Exception {
+        fill(10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/users"), response, chain);
+
+        assertThat(passedThrough).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        JsonNode problem = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(problem.get("status").asInt()).isEqualTo(503);
+        assertThat(problem.get("title").asText()).isEqualTo("Service Unavailable");
+        assertThat(problem.get("detail").asText()).isEqualTo("Server is overloaded, retry after 1s");
+        assertThat(problem.get("instance").asText()).isEqualTo("/api/v1/users");
+        assertThat(problem.has("timestamp")).isTrue();
+        assertThat(shedCounters.get(LoadSheddingFilter.Priority.WRITE).count()).isEqualTo(1);
+    }
+
+    @Test
+    void readsAreShedBeforeWrites() throws Exception {
+        fill(8);
+
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users/1"), read, chain);
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/users/1"), write, chain);
+
+        assertThat(read.getStatus()).isEqualTo(503);
+        assertThat(write.getStatus()).isEqualTo(200);
+        assertThat(passedThrough).hasValue(1);
+        assertThat(shedCounters.get(LoadSheddingFilter.Priority.READ).count()).isEqualTo(1);
+    }
+
+    @Test
+    void slotIsFreedAfterTheRequest() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users/1"), new MockHttpServletResponse(), chain);
+
+        assertThat(passedThrough).hasValue(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void exportBypassesAdaptiveLimit() throws Exception {
+        fill(10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", EXPORT_PATH), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(passedThrough).hasValue(1);
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void streamingExportHoldsItsBulkheadSlotUntilComplete() throws Exception {
+        FilterChain streaming = (req, res) -> {
+            passedThrough.incrementAndGet();
+            req.startAsync();
+        };
+        MockHttpServletRequest first = asyncRequest(EXPORT_PATH);
+        filter.doFilter(first, new MockHttpServletResponse(), streaming);
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(asyncRequest(EXPORT_PATH), rejected, streaming);
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(shedCounters.get(LoadSheddingFilter.Priority.EXPORT).count()).isEqualTo(1);
+
+        first.getAsyncContext().complete();
+
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(asyncRequest(EXPORT_PATH), accepted, streaming);
+        assertThat(accepted.getStatus()).isEqualTo(200);
+        assertThat(passedThrough).hasValue(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private void fill(int inFlight) {
+        while (limiter.getInFlight() < inFlight) {
+            limiter.tryAcquire(1.0);
+        }
+    }
+
+    private static MockHttpServletRequest asyncRequest(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAsyncSupported(true);
+        return request;
+    }
+}